@@ -0,0 +1,124 @@
+package com.example.mavenproject.importer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Ponto de retomada de uma importação. Guarda, para cada bloco do arquivo, os limites
+ * {@code [início, fim)} e a posição até a qual as linhas já foram gravadas no banco.
+ * O arquivo é regravado de forma atômica (arquivo temporário + renomeação) a cada lote confirmado,
+ * portanto uma importação interrompida repete no máximo o lote em andamento de cada bloco.
+ */
+class ImportCheckpoint {
+
+    private final Path path;
+    private final long fileSize;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] committed;
+
+    private ImportCheckpoint(Path path, long fileSize, long[] starts, long[] ends, long[] committed) {
+        this.path = path;
+        this.fileSize = fileSize;
+        this.starts = starts;
+        this.ends = ends;
+        this.committed = committed;
+    }
+
+    /**
+     * Cria um ponto de retomada novo para os blocos informados.
+     * @param path O arquivo onde o ponto de retomada será gravado.
+     * @param fileSize O tamanho do arquivo importado.
+     * @param starts As posições iniciais de cada bloco.
+     * @param ends As posições finais de cada bloco.
+     * @return O ponto de retomada, já gravado em disco.
+     * @throws IOException Se o arquivo não puder ser gravado.
+     */
+    static ImportCheckpoint create(Path path, long fileSize, long[] starts, long[] ends) throws IOException {
+        ImportCheckpoint checkpoint = new ImportCheckpoint(path, fileSize, starts, ends, starts.clone());
+        checkpoint.save();
+        return checkpoint;
+    }
+
+    /**
+     * Carrega um ponto de retomada existente.
+     * @param path O arquivo do ponto de retomada.
+     * @param fileSize O tamanho atual do arquivo importado.
+     * @return O ponto de retomada.
+     * @throws IOException Se o arquivo não puder ser lido.
+     * @throws IllegalStateException Se o ponto de retomada for inválido ou de outra versão do arquivo.
+     */
+    static ImportCheckpoint load(Path path, long fileSize) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.US_ASCII);
+        if (lines.isEmpty() || !lines.get(0).equals("size=" + fileSize)) {
+            throw new IllegalStateException("Ponto de retomada não corresponde ao arquivo: " + path);
+        }
+        int chunks = lines.size() - 1;
+        long[] starts = new long[chunks];
+        long[] ends = new long[chunks];
+        long[] committed = new long[chunks];
+        for (int i = 0; i < chunks; i++) {
+            String[] fields = lines.get(i + 1).trim().split(" ");
+            if (fields.length != 3) {
+                throw new IllegalStateException("Linha inválida no ponto de retomada: " + lines.get(i + 1));
+            }
+            starts[i] = Long.parseLong(fields[0]);
+            ends[i] = Long.parseLong(fields[1]);
+            committed[i] = Long.parseLong(fields[2]);
+        }
+        return new ImportCheckpoint(path, fileSize, starts, ends, committed);
+    }
+
+    int chunkCount() {
+        return starts.length;
+    }
+
+    long start(int chunk) {
+        return starts[chunk];
+    }
+
+    long end(int chunk) {
+        return ends[chunk];
+    }
+
+    synchronized long committed(int chunk) {
+        return committed[chunk];
+    }
+
+    /**
+     * Registra que as linhas do bloco até {@code offset} foram gravadas e persiste o ponto de retomada.
+     * @param chunk O índice do bloco.
+     * @param offset A posição logo após a última linha gravada.
+     * @throws IOException Se o arquivo não puder ser gravado.
+     */
+    synchronized void commit(int chunk, long offset) throws IOException {
+        committed[chunk] = offset;
+        save();
+    }
+
+    /**
+     * Remove o ponto de retomada após uma importação concluída.
+     * @throws IOException Se o arquivo não puder ser removido.
+     */
+    synchronized void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    private void save() throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.US_ASCII)) {
+            writer.write("size=" + fileSize);
+            writer.newLine();
+            for (int i = 0; i < starts.length; i++) {
+                writer.write(starts[i] + " " + ends[i] + " " + committed[i]);
+                writer.newLine();
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.mavenproject.importer;
+
+/**
+ * Formatos de arquivo aceitos pelo {@link TemperatureImporter}.
+ * <ul>
+ *   <li>{@code CSV}: {@code inputValue,inputType,outputType,timestamp}, com cabeçalho opcional.</li>
+ *   <li>{@code NDJSON}: um objeto por linha com as chaves {@code inputValue}, {@code inputType},
+ *       {@code outputType} e {@code timestamp}.</li>
+ * </ul>
+ * O {@code timestamp} (milissegundos desde a época) é obrigatório; linhas sem ele são ignoradas.
+ */
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    /**
+     * Deduz o formato pela extensão do arquivo.
+     * @param fileName O nome do arquivo.
+     * @return {@link #NDJSON} para {@code .ndjson}, {@code .jsonl} e {@code .json}; {@link #CSV} caso contrário.
+     */
+    public static ImportFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase();
+        if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl") || lower.endsWith(".json")) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.mavenproject.importer;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Interpreta uma linha diretamente sobre os bytes de um {@link ByteBuffer}, sem criar
+ * objetos {@code String} intermediários. Números são lidos como valor não escalado + escala
+ * e os tipos de unidade são mapeados para as constantes {@code "C"}, {@code "F"} e {@code "K"}
+ * aceitas pelo {@link com.example.mavenproject.temperature.TemperatureConverter}.
+ * Campos CSV podem vir entre aspas duplas (sem aspas ou vírgulas internas).
+ */
+class RowParser {
+
+    static final String CELSIUS = "C";
+    static final String FAHRENHEIT = "F";
+    static final String KELVIN = "K";
+
+    private static final byte[] CELSIUS_NAME = "CELSIUS".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FAHRENHEIT_NAME = "FAHRENHEIT".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] KELVIN_NAME = "KELVIN".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] KEY_INPUT_VALUE = "\"inputValue\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] KEY_INPUT_TYPE = "\"inputType\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] KEY_OUTPUT_TYPE = "\"outputType\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] KEY_TIMESTAMP = "\"timestamp\"".getBytes(StandardCharsets.US_ASCII);
+
+    /** Maior número de dígitos que cabe com segurança em um {@code long}. */
+    private static final int MAX_DIGITS = 18;
+    /** Maior expoente aceito em notação científica ({@code 1.5e2}). */
+    private static final int MAX_EXPONENT = 999;
+
+    /**
+     * Resultado mutável da interpretação de uma linha, reutilizado entre linhas.
+     */
+    static class Row {
+        long unscaledValue;
+        int scale;
+        String inputType;
+        String outputType;
+        long timestamp;
+
+        BigDecimal inputValue() {
+            return BigDecimal.valueOf(unscaledValue, scale);
+        }
+    }
+
+    private final ImportFormat format;
+    /** Último valor lido por {@link #parseLong}. */
+    private long lastLong;
+
+    RowParser(ImportFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * Interpreta a linha {@code [start, end)} do buffer.
+     * @param buffer O buffer com o conteúdo do arquivo.
+     * @param start A posição inicial da linha.
+     * @param end A posição final da linha, sem o terminador.
+     * @param row O objeto que recebe os valores lidos.
+     * @return {@code true} se a linha é válida, {@code false} caso contrário.
+     */
+    boolean parse(ByteBuffer buffer, int start, int end, Row row) {
+        return format == ImportFormat.CSV
+            ? parseCsv(buffer, start, end, row)
+            : parseJson(buffer, start, end, row);
+    }
+
+    /**
+     * Indica se a linha é um cabeçalho CSV (começa por uma letra, com ou sem aspas).
+     */
+    static boolean isHeader(ByteBuffer buffer, int start, int end) {
+        int i = skipSpaces(buffer, start, end);
+        if (i < end && buffer.get(i) == '"') {
+            i++;
+        }
+        if (i >= end) {
+            return false;
+        }
+        byte b = buffer.get(i);
+        return (b >= 'A' && b <= 'Z') || (b >= 'a' && b <= 'z');
+    }
+
+    private boolean parseCsv(ByteBuffer buffer, int start, int end, Row row) {
+        int fieldEnd = indexOf(buffer, start, end, (byte) ',');
+        if (fieldEnd < 0 || !parseDecimal(buffer, start, fieldEnd, row)) {
+            return false;
+        }
+        int next = fieldEnd + 1;
+        fieldEnd = indexOf(buffer, next, end, (byte) ',');
+        if (fieldEnd < 0 || (row.inputType = unitCode(buffer, next, fieldEnd)) == null) {
+            return false;
+        }
+        next = fieldEnd + 1;
+        fieldEnd = indexOf(buffer, next, end, (byte) ',');
+        if (fieldEnd < 0 || (row.outputType = unitCode(buffer, next, fieldEnd)) == null) {
+            return false;
+        }
+        // O timestamp é obrigatório: sem ele o registro histórico não tem data.
+        if (!parseLong(buffer, fieldEnd + 1, end)) {
+            return false;
+        }
+        row.timestamp = lastLong;
+        return true;
+    }
+
+    private boolean parseJson(ByteBuffer buffer, int start, int end, Row row) {
+        int value = findValue(buffer, start, end, KEY_INPUT_VALUE);
+        if (value < 0) {
+            return false;
+        }
+        boolean quoted = buffer.get(value) == '"';
+        int valueStart = quoted ? value + 1 : value;
+        int valueEnd = tokenEnd(buffer, valueStart, end, quoted);
+        if (!parseDecimal(buffer, valueStart, valueEnd, row)) {
+            return false;
+        }
+
+        if ((row.inputType = jsonUnit(buffer, start, end, KEY_INPUT_TYPE)) == null
+                || (row.outputType = jsonUnit(buffer, start, end, KEY_OUTPUT_TYPE)) == null) {
+            return false;
+        }
+
+        value = findValue(buffer, start, end, KEY_TIMESTAMP);
+        if (value < 0) {
+            return false;
+        }
+        quoted = buffer.get(value) == '"';
+        valueStart = quoted ? value + 1 : value;
+        if (!parseLong(buffer, valueStart, tokenEnd(buffer, valueStart, end, quoted))) {
+            return false;
+        }
+        row.timestamp = lastLong;
+        return true;
+    }
+
+    private String jsonUnit(ByteBuffer buffer, int start, int end, byte[] key) {
+        int value = findValue(buffer, start, end, key);
+        if (value < 0 || buffer.get(value) != '"') {
+            return null;
+        }
+        return unitCode(buffer, value + 1, tokenEnd(buffer, value + 1, end, true));
+    }
+
+    /**
+     * Lê um decimal ({@code [-+]?digitos[.digitos][(e|E)[-+]?digitos]}) em {@code [start, end)},
+     * ignorando espaços e aspas. Números com mais de {@code MAX_DIGITS} dígitos são rejeitados.
+     */
+    private boolean parseDecimal(ByteBuffer buffer, int start, int end, Row row) {
+        int i = fieldStart(buffer, start, end);
+        int last = fieldEnd(buffer, start, end);
+        boolean negative = false;
+        if (i < last && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        long unscaled = 0L;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+        for (; i < last; i++) {
+            byte b = buffer.get(i);
+            if (b == '.' && !fraction) {
+                fraction = true;
+            } else if ((b == 'e' || b == 'E') && digits > 0) {
+                break;
+            } else if (b >= '0' && b <= '9') {
+                if (++digits > MAX_DIGITS) {
+                    return false;
+                }
+                unscaled = unscaled * 10 + (b - '0');
+                if (fraction) {
+                    scale++;
+                }
+            } else {
+                return false;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < last) {
+            // Expoente: o caractere em i é 'e' ou 'E'.
+            if (!parseLong(buffer, i + 1, last) || Math.abs(lastLong) > MAX_EXPONENT
+                    || buffer.get(i + 1) == ' ') {
+                return false;
+            }
+            scale -= (int) lastLong;
+        }
+        row.unscaledValue = negative ? -unscaled : unscaled;
+        row.scale = scale;
+        return true;
+    }
+
+    private boolean parseLong(ByteBuffer buffer, int start, int end) {
+        int i = fieldStart(buffer, start, end);
+        int last = fieldEnd(buffer, start, end);
+        boolean negative = i < last && buffer.get(i) == '-';
+        if (negative || (i < last && buffer.get(i) == '+')) {
+            i++;
+        }
+        if (i >= last || last - i > MAX_DIGITS) {
+            return false;
+        }
+        long value = 0L;
+        for (; i < last; i++) {
+            byte b = buffer.get(i);
+            if (b < '0' || b > '9') {
+                return false;
+            }
+            value = value * 10 + (b - '0');
+        }
+        lastLong = negative ? -value : value;
+        return true;
+    }
+
+    /**
+     * Mapeia um código de unidade ({@code C}, {@code F}, {@code K} ou o nome completo,
+     * sem distinção de caixa) para a constante correspondente.
+     * @return A constante da unidade, ou {@code null} se o código for inválido.
+     */
+    static String unitCode(ByteBuffer buffer, int start, int end) {
+        int i = fieldStart(buffer, start, end);
+        int last = fieldEnd(buffer, start, end);
+        if (i >= last) {
+            return null;
+        }
+        switch (upper(buffer.get(i))) {
+            case 'C':
+                return last - i == 1 || matches(buffer, i, last, CELSIUS_NAME) ? CELSIUS : null;
+            case 'F':
+                return last - i == 1 || matches(buffer, i, last, FAHRENHEIT_NAME) ? FAHRENHEIT : null;
+            case 'K':
+                return last - i == 1 || matches(buffer, i, last, KELVIN_NAME) ? KELVIN : null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean matches(ByteBuffer buffer, int start, int end, byte[] name) {
+        if (end - start != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (upper(buffer.get(start + i)) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Localiza a chave JSON informada e retorna a posição do primeiro byte do seu valor.
+     */
+    private static int findValue(ByteBuffer buffer, int start, int end, byte[] key) {
+        int limit = end - key.length;
+        outer:
+        for (int i = start; i <= limit; i++) {
+            for (int k = 0; k < key.length; k++) {
+                if (buffer.get(i + k) != key[k]) {
+                    continue outer;
+                }
+            }
+            int j = skipSpaces(buffer, i + key.length, end);
+            if (j < end && buffer.get(j) == ':') {
+                j = skipSpaces(buffer, j + 1, end);
+                return j < end ? j : -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int tokenEnd(ByteBuffer buffer, int start, int end, boolean quoted) {
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (quoted ? b == '"' : (b == ',' || b == '}' || b == ' ' || b == '\t')) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int start, int end, byte value) {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Início do conteúdo do campo {@code [start, end)}, sem espaços e sem a aspa de abertura.
+     */
+    private static int fieldStart(ByteBuffer buffer, int start, int end) {
+        int i = skipSpaces(buffer, start, end);
+        int last = trimEnd(buffer, i, end);
+        return isQuoted(buffer, i, last) ? i + 1 : i;
+    }
+
+    /**
+     * Fim do conteúdo do campo {@code [start, end)}, sem espaços e sem a aspa de fechamento.
+     */
+    private static int fieldEnd(ByteBuffer buffer, int start, int end) {
+        int i = skipSpaces(buffer, start, end);
+        int last = trimEnd(buffer, i, end);
+        return isQuoted(buffer, i, last) ? last - 1 : last;
+    }
+
+    private static boolean isQuoted(ByteBuffer buffer, int start, int end) {
+        return end - start >= 2 && buffer.get(start) == '"' && buffer.get(end - 1) == '"';
+    }
+
+    private static int skipSpaces(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        while (i < end && isSpace(buffer.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int trimEnd(ByteBuffer buffer, int start, int end) {
+        int i = end;
+        while (i > start && isSpace(buffer.get(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    /** Espaço, tabulação ou o {@code \r} de uma quebra de linha CRLF. */
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static byte upper(byte b) {
+        return b >= 'a' && b <= 'z' ? (byte) (b - ('a' - 'A')) : b;
+    }
+}
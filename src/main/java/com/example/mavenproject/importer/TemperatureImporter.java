@@ -0,0 +1,336 @@
+package com.example.mavenproject.importer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.mavenproject.temperature.Temperature;
+import com.example.mavenproject.temperature.TemperatureConverter;
+import com.example.mavenproject.temperature.TemperatureRepository;
+
+/**
+ * Ferramenta de linha de comando para importar históricos de temperatura em massa.
+ * O arquivo (CSV ou NDJSON, ver {@link ImportFormat}) é mapeado em memória e dividido em blocos
+ * alinhados em quebras de linha; cada bloco é interpretado, convertido com o
+ * {@link TemperatureConverter} e gravado no {@link TemperatureRepository} em lotes não ordenados,
+ * em paralelo. O progresso é salvo em {@code <arquivo>.checkpoint}, permitindo retomar uma
+ * importação interrompida executando o mesmo comando novamente. Cada linha recebe um UUID
+ * determinístico, derivado do arquivo e da posição da linha, de modo que linhas repetidas em uma
+ * retomada (ou em uma nova importação do mesmo arquivo) não são gravadas duas vezes.
+ * <p>
+ * Uso: {@code TemperatureImporter <arquivo> [--threads N] [--batch N] [--format csv|ndjson]}
+ */
+public class TemperatureImporter {
+
+    private static final long MIN_CHUNK_BYTES = 1L << 20;
+    private static final long MAX_CHUNK_BYTES = 256L << 20;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final long REPORT_INTERVAL_SECONDS = 5L;
+    private static final int MAX_SKIP_WARNINGS = 10;
+
+    private final Path file;
+    private final ImportFormat format;
+    private final int threads;
+    private final int batchSize;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    /**
+     * Hash de 64 bits da identidade do arquivo (caminho real e tamanho), calculado uma vez por
+     * importação. Forma os bits mais significativos do UUID de cada linha; a posição da linha
+     * forma os menos significativos.
+     */
+    private long fileBits;
+
+    private final LongAdder imported = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final AtomicInteger skipWarnings = new AtomicInteger();
+
+    /**
+     * @param file O arquivo a ser importado.
+     * @param format O formato do arquivo.
+     * @param threads O número de blocos processados em paralelo.
+     * @param batchSize O número de registros por escrita em lote.
+     */
+    public TemperatureImporter(Path file, ImportFormat format, int threads, int batchSize) {
+        if (threads < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("'threads' e 'batch' devem ser maiores que zero.");
+        }
+        this.file = file;
+        this.format = format;
+        this.threads = threads;
+        this.batchSize = batchSize;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Uso: TemperatureImporter <arquivo> [--threads N] [--batch N] [--format csv|ndjson]");
+            System.exit(2);
+        }
+        Path file = Paths.get(args[0]);
+        ImportFormat format = ImportFormat.fromFileName(file.getFileName().toString());
+        int threads = Runtime.getRuntime().availableProcessors();
+        int batchSize = DEFAULT_BATCH_SIZE;
+        try {
+            for (int i = 1; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Valor ausente para " + args[i]);
+                }
+                switch (args[i]) {
+                    case "--threads":
+                        threads = Integer.parseInt(args[i + 1]);
+                        break;
+                    case "--batch":
+                        batchSize = Integer.parseInt(args[i + 1]);
+                        break;
+                    case "--format":
+                        format = ImportFormat.valueOf(args[i + 1].toUpperCase());
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+                }
+            }
+            new TemperatureImporter(file, format, threads, batchSize).run();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        } catch (IOException | InterruptedException e) {
+            System.err.println("Importação interrompida: " + e.getMessage()
+                + ". Execute o mesmo comando para retomar.");
+            System.exit(1);
+        } finally {
+            TemperatureRepository.INSTANCE.close();
+        }
+    }
+
+    /**
+     * Executa a importação, retomando a partir do ponto de retomada se ele existir.
+     * @return O número de registros importados nesta execução.
+     * @throws IOException Se o arquivo ou o ponto de retomada não puderem ser lidos ou gravados.
+     * @throws InterruptedException Se a thread for interrompida durante a importação.
+     */
+    public long run() throws IOException, InterruptedException {
+        Path checkpointPath = file.resolveSibling(file.getFileName() + ".checkpoint");
+        long startNanos = System.nanoTime();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            String fileIdentity = file.toRealPath() + ":" + size;
+            fileBits = UUID.nameUUIDFromBytes(fileIdentity.getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+            ImportCheckpoint checkpoint;
+            if (Files.exists(checkpointPath)) {
+                checkpoint = ImportCheckpoint.load(checkpointPath, size);
+                System.out.println("Retomando importação a partir de " + checkpointPath);
+            } else {
+                long[] starts = planChunks(channel, size, chunkCount(size, threads));
+                long[] ends = new long[starts.length];
+                for (int i = 0; i < starts.length; i++) {
+                    ends[i] = i + 1 < starts.length ? starts[i + 1] : size;
+                }
+                checkpoint = ImportCheckpoint.create(checkpointPath, size, starts, ends);
+            }
+
+            ExecutorService workers = Executors.newFixedThreadPool(threads);
+            ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+            reporter.scheduleAtFixedRate(() -> report(startNanos, false),
+                REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+            try {
+                List<Future<?>> results = new ArrayList<>();
+                for (int i = 0; i < checkpoint.chunkCount(); i++) {
+                    final int chunk = i;
+                    results.add(workers.submit(() -> {
+                        importChunk(channel, checkpoint, chunk);
+                        return null;
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get();
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException(cause);
+            } finally {
+                workers.shutdownNow();
+                reporter.shutdownNow();
+            }
+            checkpoint.delete();
+        }
+
+        report(startNanos, true);
+        return imported.sum();
+    }
+
+    /**
+     * Calcula em quantos blocos o arquivo será dividido.
+     * Usa mais blocos do que threads para equilibrar a carga e limita o tamanho de cada
+     * bloco para que ele possa ser mapeado em um único {@link MappedByteBuffer}.
+     * @param size O tamanho do arquivo.
+     * @param threads O número de threads da importação.
+     * @return O número de blocos, no mínimo 1.
+     */
+    static int chunkCount(long size, int threads) {
+        long byCores = Math.min((long) threads * 4, size / MIN_CHUNK_BYTES);
+        long bySize = (size + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES;
+        return (int) Math.max(1L, Math.max(byCores, bySize));
+    }
+
+    /**
+     * Divide o arquivo em {@code chunks} blocos alinhados no início de uma linha.
+     * Blocos sem nenhuma quebra de linha ficam vazios (início igual ao do bloco seguinte).
+     * @return As posições iniciais dos blocos, em ordem não decrescente.
+     */
+    static long[] planChunks(FileChannel channel, long size, int chunks) throws IOException {
+        long[] starts = new long[chunks];
+        ByteBuffer scan = ByteBuffer.allocate(8192);
+        for (int i = 1; i < chunks; i++) {
+            long lineStart = nextLineStart(channel, size * i / chunks, size, scan);
+            starts[i] = Math.max(lineStart, starts[i - 1]);
+        }
+        return starts;
+    }
+
+    /**
+     * Retorna a posição da primeira linha que começa em {@code position} ou depois dela.
+     */
+    static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer scan)
+            throws IOException {
+        if (position <= 0L) {
+            return 0L;
+        }
+        long offset = position - 1;
+        while (offset < size) {
+            scan.clear();
+            int read = channel.read(scan, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * Importa um bloco a partir da última posição confirmada, confirmando o ponto de retomada
+     * após cada lote gravado.
+     */
+    private void importChunk(FileChannel channel, ImportCheckpoint checkpoint, int chunk) throws IOException {
+        long from = checkpoint.committed(chunk);
+        long to = checkpoint.end(chunk);
+        if (from >= to) {
+            return;
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        int length = (int) (to - from);
+
+        RowParser parser = new RowParser(format);
+        RowParser.Row row = new RowParser.Row();
+        List<Temperature> batch = new ArrayList<>(batchSize);
+        boolean firstLine = from == 0L;
+
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            if (lineEnd > lineStart
+                    && !(firstLine && format == ImportFormat.CSV && RowParser.isHeader(buffer, lineStart, lineEnd))) {
+                Temperature temperature = parser.parse(buffer, lineStart, lineEnd, row)
+                    ? toTemperature(row, from + lineStart)
+                    : null;
+                if (temperature != null) {
+                    batch.add(temperature);
+                } else {
+                    skip(from + lineStart);
+                }
+            }
+            firstLine = false;
+            lineStart = next;
+
+            if (batch.size() >= batchSize) {
+                flush(batch, checkpoint, chunk, from + Math.min(lineStart, length));
+            }
+        }
+        flush(batch, checkpoint, chunk, to);
+    }
+
+    private void flush(List<Temperature> batch, ImportCheckpoint checkpoint, int chunk, long offset)
+            throws IOException {
+        imported.add(TemperatureRepository.INSTANCE.insertAll(batch));
+        batch.clear();
+        checkpoint.commit(chunk, offset);
+    }
+
+    /**
+     * Converte uma linha interpretada em um {@link Temperature}, calculando o valor de saída.
+     * @param row A linha interpretada.
+     * @param offset A posição absoluta da linha no arquivo, usada para derivar o UUID.
+     * @return O registro, ou {@code null} se a conversão não for possível.
+     */
+    private Temperature toTemperature(RowParser.Row row, long offset) {
+        BigDecimal inputValue = row.inputValue();
+        BigDecimal outputValue;
+        try {
+            outputValue = TemperatureConverter.convert(inputValue, row.inputType, row.outputType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(row.timestamp), zone);
+        String uuid = new UUID(fileBits, offset).toString();
+        return new Temperature(dateTime, inputValue, row.inputType, row.outputType, outputValue,
+                               uuid, row.timestamp);
+    }
+
+    /**
+     * Contabiliza uma linha ignorada, avisando as primeiras {@code MAX_SKIP_WARNINGS} pela posição.
+     */
+    private void skip(long offset) {
+        skipped.increment();
+        int warning = skipWarnings.incrementAndGet();
+        if (warning <= MAX_SKIP_WARNINGS) {
+            System.err.println("Linha ignorada na posição " + offset
+                + ": formato inválido, unidade desconhecida ou timestamp ausente."
+                + (warning == MAX_SKIP_WARNINGS ? " Demais linhas ignoradas serão apenas contadas." : ""));
+        }
+    }
+
+    private void report(long startNanos, boolean done) {
+        double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        long rows = imported.sum();
+        System.out.printf("%s %d registros importados, %d ignorados em %.1f s (%.0f registros/s)%n",
+            done ? "Concluído:" : "Progresso:", rows, skipped.sum(), seconds, rows / seconds);
+    }
+}
@@ -2,6 +2,10 @@ package com.example.mavenproject.restful.config;
 
 import org.glassfish.jersey.server.ResourceConfig;
 import jakarta.ws.rs.ApplicationPath;
+import com.example.mavenproject.restful.health.HealthResource;
+import com.example.mavenproject.restful.limit.ConcurrencyLimitFilter;
+import com.example.mavenproject.restful.limit.ConcurrencyLimitListener;
+import com.example.mavenproject.restful.limit.LimitsResource;
 import com.example.mavenproject.temperature.TemperatureResource;
 
 @ApplicationPath("/webapi")
@@ -9,5 +13,10 @@ public class AppConfig extends ResourceConfig {
     public AppConfig() {
         packages("com.example.mavenproject.temperature");
         register(TemperatureResource.class);
+        register(HealthResource.class);
+        register(AppLifecycleListener.class);
+        register(LimitsResource.class);
+        register(ConcurrencyLimitFilter.class);
+        register(ConcurrencyLimitListener.class);
     }
 }
@@ -0,0 +1,130 @@
+package com.example.mavenproject.restful.config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.jersey.server.spi.Container;
+import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
+
+import com.example.mavenproject.restful.health.HealthState;
+import com.example.mavenproject.temperature.TemperatureRepository;
+import com.example.mavenproject.temperature.TemperatureWarmUp;
+
+/**
+ * Gerencia o ciclo de vida do {@link TemperatureRepository}.
+ * Na inicialização, aquece a conexão com o MongoDB e, opcionalmente, os caminhos de
+ * conversão e mapeamento em uma thread separada, marcando o nó como pronto ao final.
+ * Em seguida, verifica o MongoDB com {@code ping} a cada {@code HEALTH_CHECK_INTERVAL_SECONDS}
+ * segundos e guarda o resultado no {@link HealthState}, para que as verificações de prontidão
+ * não bloqueiem threads de requisição quando o banco estiver lento ou fora do ar.
+ * No desligamento, interrompe o aquecimento e as verificações em andamento e só então fecha o cliente
+ * MongoDB, para que nenhuma thread da aplicação crie um novo cliente após o fechamento.
+ * Em um recarregamento ({@code ServletContainer.reload()}), o Jersey chama {@code onShutdown}
+ * no contêiner antigo e {@code onStartup} no novo, que reabre o repositório e refaz o aquecimento.
+ * O aquecimento JIT é controlado pela propriedade de sistema {@code temperature.warmup.iterations}
+ * (padrão 2000; 0 desativa).
+ */
+public class AppLifecycleListener implements ContainerLifecycleListener {
+
+    private static final Logger LOGGER = Logger.getLogger(AppLifecycleListener.class.getName());
+    private static final int DEFAULT_WARMUP_ITERATIONS = 2000;
+    private static final long SHUTDOWN_JOIN_MILLIS = 5000L;
+    private static final long HEALTH_CHECK_INTERVAL_SECONDS = 5L;
+
+    private volatile Thread warmUpThread;
+    private volatile ScheduledExecutorService healthCheck;
+
+    @Override
+    public void onStartup(Container container) {
+        TemperatureRepository.INSTANCE.reopen();
+        HealthState.INSTANCE.setShuttingDown(false);
+        HealthState.INSTANCE.setReady(false);
+        HealthState.INSTANCE.setMongoUp(false);
+        healthCheck = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "temperature-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        warmUpThread = new Thread(this::warmUp, "temperature-warmup");
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+    }
+
+    @Override
+    public void onReload(Container container) {
+        // Nada a fazer: o Jersey chama onShutdown no contêiner antigo e onStartup no novo,
+        // que reabre o repositório.
+    }
+
+    @Override
+    public void onShutdown(Container container) {
+        HealthState.INSTANCE.setShuttingDown(true);
+        HealthState.INSTANCE.setReady(false);
+        if (warmUpThread != null) {
+            warmUpThread.interrupt();
+            try {
+                warmUpThread.join(SHUTDOWN_JOIN_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            warmUpThread = null;
+        }
+        if (healthCheck != null) {
+            healthCheck.shutdownNow();
+            try {
+                healthCheck.awaitTermination(SHUTDOWN_JOIN_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            healthCheck = null;
+        }
+        TemperatureRepository.INSTANCE.close();
+    }
+
+    /**
+     * Executa o aquecimento e agenda as verificações periódicas. Falhas de conexão não impedem
+     * o nó de ficar pronto; a verificação de prontidão reporta o MongoDB como indisponível
+     * até que um {@code ping} periódico seja bem-sucedido.
+     */
+    private void warmUp() {
+        int iterations = Integer.getInteger("temperature.warmup.iterations", DEFAULT_WARMUP_ITERATIONS);
+        if (iterations > 0) {
+            long start = System.nanoTime();
+            long conversions = TemperatureWarmUp.run(iterations);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            LOGGER.info(() -> "Aquecimento JIT: " + conversions + " conversões em "
+                + (System.nanoTime() - start) / 1_000_000L + " ms.");
+        }
+        boolean mongoUp = false;
+        try {
+            mongoUp = TemperatureRepository.INSTANCE.warmUp();
+            if (!mongoUp) {
+                LOGGER.warning("Aquecimento do pool MongoDB incompleto: servidor inacessível.");
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Falha ao aquecer a conexão com o MongoDB.", e);
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        HealthState.INSTANCE.setMongoUp(mongoUp);
+        HealthState.INSTANCE.setReady(true);
+
+        ScheduledExecutorService scheduler = healthCheck;
+        if (scheduler != null) {
+            try {
+                scheduler.scheduleWithFixedDelay(
+                    () -> HealthState.INSTANCE.setMongoUp(TemperatureRepository.INSTANCE.ping()),
+                    HEALTH_CHECK_INTERVAL_SECONDS, HEALTH_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+            } catch (RejectedExecutionException e) {
+                // O desligamento começou enquanto o aquecimento terminava.
+            }
+        }
+    }
+}
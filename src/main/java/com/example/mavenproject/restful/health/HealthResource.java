@@ -0,0 +1,59 @@
+package com.example.mavenproject.restful.health;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Recurso RESTful com as verificações de saúde do nó.
+ * {@code /health/live} indica se o processo está ativo; {@code /health/ready} indica
+ * se o aquecimento terminou e se o MongoDB está acessível. Nenhuma das verificações acessa
+ * o banco: o estado do MongoDB vem do {@code ping} periódico feito pelo
+ * {@link com.example.mavenproject.restful.config.AppLifecycleListener}.
+ */
+@Path("/health")
+@Produces(MediaType.APPLICATION_JSON)
+public class HealthResource {
+
+    /**
+     * Verificação de vivacidade. Não acessa o banco de dados.
+     * @return Response OK enquanto o nó não estiver sendo desligado.
+     */
+    @GET
+    @Path("/live")
+    public Response live() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (HealthState.INSTANCE.isShuttingDown()) {
+            body.put("status", "DOWN");
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE).entity(body).build();
+        }
+        body.put("status", "UP");
+        return Response.ok(body).build();
+    }
+
+    /**
+     * Verificação de prontidão. Exige o aquecimento concluído e o último {@code ping} bem-sucedido.
+     * @return Response OK se o nó pode receber tráfego, SERVICE_UNAVAILABLE caso contrário.
+     */
+    @GET
+    @Path("/ready")
+    public Response ready() {
+        boolean warmedUp = HealthState.INSTANCE.isReady();
+        boolean mongoUp = warmedUp && HealthState.INSTANCE.isMongoUp();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", warmedUp && mongoUp ? "UP" : "DOWN");
+        body.put("warmedUp", warmedUp);
+        body.put("mongodb", mongoUp ? "UP" : "DOWN");
+
+        if (warmedUp && mongoUp) {
+            return Response.ok(body).build();
+        }
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE).entity(body).build();
+    }
+}
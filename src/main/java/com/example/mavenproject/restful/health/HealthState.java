@@ -0,0 +1,40 @@
+package com.example.mavenproject.restful.health;
+
+/**
+ * Estado de prontidão do nó, compartilhado entre o ciclo de vida da aplicação
+ * e os endpoints de saúde. Implementa o padrão Singleton utilizando um enum.
+ */
+public enum HealthState {
+    INSTANCE;
+
+    private volatile boolean ready;
+    private volatile boolean shuttingDown;
+    private volatile boolean mongoUp;
+
+    public boolean isReady() {
+        return ready && !shuttingDown;
+    }
+
+    public void setReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    public boolean isShuttingDown() {
+        return shuttingDown;
+    }
+
+    public void setShuttingDown(boolean shuttingDown) {
+        this.shuttingDown = shuttingDown;
+    }
+
+    /**
+     * @return O resultado do último {@code ping} feito em segundo plano no MongoDB.
+     */
+    public boolean isMongoUp() {
+        return mongoUp;
+    }
+
+    public void setMongoUp(boolean mongoUp) {
+        this.mongoUp = mongoUp;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.mavenproject.restful.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limite de concorrência adaptativo no estilo AIMD (aumento aditivo, redução multiplicativa).
+ * Cada requisição concluída dentro da latência-alvo aumenta o limite em {@code 1/limite}
+ * (cerca de +1 por "rodada" de requisições), desde que o limite esteja sendo utilizado;
+ * requisições lentas ou com falha reduzem o limite por {@link #BACKOFF_RATIO}.
+ * O limite é lido e ajustado sem bloqueio, para não serializar as requisições admitidas.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    /** Limite atual, guardado como os bits de um {@code double}. */
+    private final AtomicLong limitBits = new AtomicLong();
+
+    /**
+     * Cria um limite com os parâmetros da classe de endpoint informada.
+     * @param endpointClass A classe de endpoint cujos parâmetros serão usados.
+     */
+    public AdaptiveConcurrencyLimit(EndpointClass endpointClass) {
+        this(endpointClass.getInitialLimit(), endpointClass.getMinLimit(), endpointClass.getMaxLimit(),
+             endpointClass.getTargetLatencyMillis());
+    }
+
+    /**
+     * @param initialLimit O limite inicial de requisições simultâneas.
+     * @param minLimit O menor valor que o limite pode assumir.
+     * @param maxLimit O maior valor que o limite pode assumir.
+     * @param targetLatencyMillis A latência acima da qual o limite é reduzido.
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long targetLatencyMillis) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limites inválidos: exige 1 <= min <= inicial <= max.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limitBits.set(Double.doubleToRawLongBits(initialLimit));
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+    }
+
+    /**
+     * Tenta reservar uma vaga para uma nova requisição.
+     * @return O número de requisições em andamento após a reserva, ou {@code -1} se o limite foi atingido.
+     */
+    public int tryAcquire() {
+        int max = getLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= max) {
+                rejected.incrementAndGet();
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga de uma requisição concluída e ajusta o limite.
+     * @param latencyNanos A duração da requisição em nanossegundos.
+     * @param inFlightAtStart O número de requisições em andamento quando esta foi admitida.
+     * @param failed {@code true} se a requisição falhou por erro do servidor.
+     */
+    public void release(long latencyNanos, int inFlightAtStart, boolean failed) {
+        inFlight.decrementAndGet();
+        boolean backOff = failed || latencyNanos > targetLatencyNanos;
+        long current;
+        long next;
+        do {
+            current = limitBits.get();
+            double limit = Double.longBitsToDouble(current);
+            double updated;
+            if (backOff) {
+                updated = Math.max(minLimit, limit * BACKOFF_RATIO);
+            } else if (inFlightAtStart * 2 >= limit) {
+                // Só cresce quando o limite está de fato sendo utilizado.
+                updated = Math.min(maxLimit, limit + 1.0 / limit);
+            } else {
+                return;
+            }
+            next = Double.doubleToRawLongBits(updated);
+        } while (current != next && !limitBits.compareAndSet(current, next));
+    }
+
+    /**
+     * @return O limite atual de requisições simultâneas.
+     */
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    /**
+     * @return O número de requisições em andamento.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return O total de requisições rejeitadas desde a inicialização.
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+}
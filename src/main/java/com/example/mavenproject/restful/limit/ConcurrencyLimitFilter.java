@@ -0,0 +1,80 @@
+package com.example.mavenproject.restful.limit;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Filtro que aplica o limite de concorrência adaptativo aos recursos marcados com
+ * {@link ConcurrencyLimited}. Requisições acima do limite da sua {@link EndpointClass}
+ * são rejeitadas imediatamente com 503 e {@code Retry-After}, em vez de aguardarem
+ * em threads bloqueadas. A vaga é liberada pelo {@link ConcurrencyLimitListener}.
+ */
+@Provider
+@ConcurrencyLimited
+@Priority(Priorities.USER - 100)
+public class ConcurrencyLimitFilter implements ContainerRequestFilter {
+
+    /** Propriedade da requisição que guarda a {@link Permit} concedida. */
+    static final String PERMIT_PROPERTY = ConcurrencyLimitFilter.class.getName() + ".permit";
+
+    private static final int RETRY_AFTER_SECONDS = 1;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        EndpointClass endpointClass = classify(requestContext);
+        AdaptiveConcurrencyLimit limit = ConcurrencyLimits.INSTANCE.get(endpointClass);
+
+        int inFlight = limit.tryAcquire();
+        if (inFlight < 0) {
+            requestContext.abortWith(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .type(MediaType.TEXT_PLAIN)
+                .entity("Servidor sobrecarregado. Tente novamente em instantes.")
+                .build());
+            return;
+        }
+        requestContext.setProperty(PERMIT_PROPERTY, new Permit(limit, System.nanoTime(), inFlight));
+    }
+
+    /**
+     * Determina a classe de endpoint da requisição. Exclusões sem UUID no caminho
+     * ({@code DELETE /temperatures} e {@code DELETE /temperatures/by-time}) são exclusões em massa.
+     * @param requestContext O contexto da requisição.
+     * @return A classe de endpoint correspondente.
+     */
+    static EndpointClass classify(ContainerRequestContext requestContext) {
+        String method = requestContext.getMethod();
+        if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)) {
+            return EndpointClass.READ;
+        }
+        if (HttpMethod.DELETE.equals(method)
+                && !requestContext.getUriInfo().getPathParameters().containsKey("uuid")) {
+            return EndpointClass.BULK_DELETE;
+        }
+        return EndpointClass.WRITE;
+    }
+
+    /**
+     * Vaga concedida a uma requisição, com os dados necessários para ajustar o limite na conclusão.
+     */
+    static class Permit {
+        final AdaptiveConcurrencyLimit limit;
+        final long startNanos;
+        final int inFlightAtStart;
+        /** Fim da execução do método do recurso; {@code 0} enquanto ele não terminar. */
+        volatile long endNanos;
+
+        Permit(AdaptiveConcurrencyLimit limit, long startNanos, int inFlightAtStart) {
+            this.limit = limit;
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+    }
+}
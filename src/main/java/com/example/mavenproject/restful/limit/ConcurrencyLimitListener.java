@@ -0,0 +1,56 @@
+package com.example.mavenproject.restful.limit;
+
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+/**
+ * Libera as vagas concedidas pelo {@link ConcurrencyLimitFilter} quando a requisição termina.
+ * A latência é medida até {@link RequestEvent.Type#RESOURCE_METHOD_FINISHED}, antes da
+ * serialização e do envio da resposta, para que clientes lentos e respostas grandes não reduzam
+ * o limite. A vaga é liberada em {@link RequestEvent.Type#FINISHED}, emitido inclusive quando uma
+ * exceção não mapeada impede a execução dos filtros de resposta, para que nenhuma vaga seja perdida.
+ */
+public class ConcurrencyLimitListener implements ApplicationEventListener {
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+        // Eventos da aplicação não são relevantes para o limite.
+    }
+
+    @Override
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        return event -> {
+            if (event.getType() == RequestEvent.Type.RESOURCE_METHOD_FINISHED) {
+                ConcurrencyLimitFilter.Permit permit = permit(event);
+                if (permit != null) {
+                    permit.endNanos = System.nanoTime();
+                }
+                return;
+            }
+            if (event.getType() != RequestEvent.Type.FINISHED) {
+                return;
+            }
+            ConcurrencyLimitFilter.Permit permit = permit(event);
+            if (permit == null) {
+                return;
+            }
+            event.getContainerRequest().removeProperty(ConcurrencyLimitFilter.PERMIT_PROPERTY);
+
+            // Sem RESOURCE_METHOD_FINISHED (ex.: falha antes do método), mede até o fim da requisição.
+            long endNanos = permit.endNanos != 0L ? permit.endNanos : System.nanoTime();
+            // Apenas erros do servidor reduzem o limite: respostas 4xx (UUID inexistente, corpo inválido)
+            // são uso normal do recurso e não indicam sobrecarga.
+            ContainerResponse response = event.getContainerResponse();
+            boolean failed = response == null || response.getStatus() >= 500;
+            permit.limit.release(endNanos - permit.startNanos, permit.inFlightAtStart, failed);
+        };
+    }
+
+    private static ConcurrencyLimitFilter.Permit permit(RequestEvent event) {
+        Object property = event.getContainerRequest().getProperty(ConcurrencyLimitFilter.PERMIT_PROPERTY);
+        return property instanceof ConcurrencyLimitFilter.Permit ? (ConcurrencyLimitFilter.Permit) property : null;
+    }
+}
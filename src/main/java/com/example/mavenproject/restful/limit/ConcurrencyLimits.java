@@ -0,0 +1,29 @@
+package com.example.mavenproject.restful.limit;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registro dos limites de concorrência de cada {@link EndpointClass}.
+ * Implementa o padrão Singleton utilizando um enum, compartilhado entre o filtro,
+ * o ouvinte de conclusão de requisições e o endpoint de métricas.
+ */
+public enum ConcurrencyLimits {
+    INSTANCE;
+
+    private final Map<EndpointClass, AdaptiveConcurrencyLimit> limits = new EnumMap<>(EndpointClass.class);
+
+    ConcurrencyLimits() {
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            limits.put(endpointClass, new AdaptiveConcurrencyLimit(endpointClass));
+        }
+    }
+
+    /**
+     * @param endpointClass A classe de endpoint.
+     * @return O limite associado à classe de endpoint.
+     */
+    public AdaptiveConcurrencyLimit get(EndpointClass endpointClass) {
+        return limits.get(endpointClass);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.mavenproject.restful.limit;
+
+/**
+ * Classes de endpoints limitadas de forma independente, cada uma com seus
+ * próprios limites de concorrência e latência-alvo.
+ */
+public enum EndpointClass {
+    /** Consultas (GET). */
+    READ(20, 4, 200, 250L),
+    /** Criação, atualização e exclusão de um único registro. */
+    WRITE(10, 2, 100, 500L),
+    /** Exclusões em massa (todos os registros ou por data/hora). */
+    BULK_DELETE(2, 1, 8, 2000L);
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyMillis;
+
+    EndpointClass(int initialLimit, int minLimit, int maxLimit, long targetLatencyMillis) {
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyMillis = targetLatencyMillis;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public long getTargetLatencyMillis() {
+        return targetLatencyMillis;
+    }
+}
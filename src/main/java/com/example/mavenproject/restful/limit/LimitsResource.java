@@ -0,0 +1,36 @@
+package com.example.mavenproject.restful.limit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Recurso RESTful que exporta o estado dos limites de concorrência:
+ * limite atual, requisições em andamento e total de rejeições por {@link EndpointClass}.
+ */
+@Path("/limits")
+@Produces(MediaType.APPLICATION_JSON)
+public class LimitsResource {
+
+    /**
+     * @return Response com um objeto por classe de endpoint.
+     */
+    @GET
+    public Response limits() {
+        Map<String, Map<String, Object>> body = new LinkedHashMap<>();
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            AdaptiveConcurrencyLimit limit = ConcurrencyLimits.INSTANCE.get(endpointClass);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("limit", limit.getLimit());
+            entry.put("inFlight", limit.getInFlight());
+            entry.put("rejected", limit.getRejected());
+            body.put(endpointClass.name(), entry);
+        }
+        return Response.ok(body).build();
+    }
+}
@@ -4,22 +4,34 @@ import java.util.List;
 import java.util.Optional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.model.Updates;
 
 /**
  * Repositório para gerenciar operações de persistência de objetos {@link Temperature} no MongoDB.
  * Implementa o padrão Singleton utilizando um enum para garantir uma única instância.
  * Responsável por traduzir objetos Temperature para Documentos MongoDB e vice-versa.
+ * A conexão é aberta de forma preguiçosa (na primeira operação ou no {@link #warmUp()})
+ * para que o custo e as falhas de conexão não recaiam sobre o carregamento da classe.
+ * Após {@link #close()}, o repositório não reabre a conexão até que {@link #reopen()} seja chamado.
  */
 public enum TemperatureRepository {
     INSTANCE;
@@ -27,19 +39,131 @@ public enum TemperatureRepository {
     private final String MONGODB_CONN = "mongodb://localhost:28017";
     private final String TEMP_DB      = "olympus";
     private final String TEMP_COLL    = "temperatures";
+    private final int    MIN_POOL     = 4;
+    private final int    MAX_POOL     = 50;
+    private final long   CONNECT_TIMEOUT_MS = 2000L;
+    private final int    DUPLICATE_KEY = 11000;
 
-    private MongoClient mongoClient;
-    private MongoDatabase database;
-    private MongoCollection<Document> coll;
+    private volatile MongoClient mongoClient;
+    private volatile MongoDatabase database;
+    private volatile MongoCollection<Document> coll;
+    private volatile boolean closed;
 
     /**
-     * Construtor privado do repositório. Inicializa a conexão com o MongoDB
-     * e obtém a coleção de temperaturas.
+     * Construtor privado do repositório. Não abre conexão; ela é criada
+     * sob demanda por {@link #collection()}.
      */
-    TemperatureRepository() {
-        mongoClient = MongoClients.create(MONGODB_CONN);
-        database    = mongoClient.getDatabase(TEMP_DB);
-        coll        = database.getCollection(TEMP_COLL);
+    TemperatureRepository() {}
+
+    /**
+     * Obtém a coleção de temperaturas, criando o cliente MongoDB na primeira chamada.
+     * O pool de conexões é configurado com um tamanho mínimo, mantido pelo driver.
+     * Uma operação que obteve a coleção pouco antes de {@link #close()} falha com a
+     * {@link IllegalStateException} do próprio driver.
+     * @return A coleção de temperaturas.
+     * @throws IllegalStateException Se o repositório já foi fechado.
+     */
+    private MongoCollection<Document> collection() {
+        if (closed) {
+            throw new IllegalStateException("Repositório de temperaturas fechado.");
+        }
+        MongoCollection<Document> current = coll;
+        if (current == null) {
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("Repositório de temperaturas fechado.");
+                }
+                current = coll;
+                if (current == null) {
+                    MongoClientSettings settings = MongoClientSettings.builder()
+                        .applyConnectionString(new ConnectionString(MONGODB_CONN))
+                        .applyToConnectionPoolSettings(pool -> pool
+                            .minSize(MIN_POOL)
+                            .maxSize(MAX_POOL))
+                        .applyToClusterSettings(cluster -> cluster
+                            .serverSelectionTimeout(CONNECT_TIMEOUT_MS, TimeUnit.MILLISECONDS))
+                        .applyToSocketSettings(socket -> socket
+                            .connectTimeout((int) CONNECT_TIMEOUT_MS, TimeUnit.MILLISECONDS))
+                        .build();
+                    mongoClient = MongoClients.create(settings);
+                    database    = mongoClient.getDatabase(TEMP_DB);
+                    current     = database.getCollection(TEMP_COLL);
+                    coll        = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Pré-aquece a conexão: cria o cliente e abre {@code MIN_POOL} conexões em paralelo,
+     * cada uma validada com o comando {@code ping}.
+     * @return {@code true} se todas as conexões responderam, {@code false} caso contrário.
+     */
+    public boolean warmUp() {
+        collection();
+        List<Thread> openers = new ArrayList<>();
+        boolean[] results = new boolean[MIN_POOL];
+        for (int i = 0; i < MIN_POOL; i++) {
+            final int slot = i;
+            Thread opener = new Thread(() -> results[slot] = ping(), "mongo-warmup-" + i);
+            opener.setDaemon(true);
+            openers.add(opener);
+            opener.start();
+        }
+        boolean allOpen = true;
+        for (int i = 0; i < openers.size(); i++) {
+            try {
+                openers.get(i).join();
+            } catch (InterruptedException e) {
+                openers.forEach(Thread::interrupt);
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            allOpen &= results[i];
+        }
+        return allOpen;
+    }
+
+    /**
+     * Verifica se o MongoDB está acessível executando o comando {@code ping}.
+     * @return {@code true} se o servidor respondeu, {@code false} caso contrário.
+     */
+    public boolean ping() {
+        try {
+            collection();
+            MongoDatabase current = database;
+            if (current == null) {
+                return false;
+            }
+            current.runCommand(new Document("ping", 1));
+            return true;
+        } catch (MongoException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Fecha o cliente MongoDB, se aberto. Operações posteriores lançam {@link IllegalStateException}
+     * até que {@link #reopen()} seja chamado.
+     */
+    public synchronized void close() {
+        closed = true;
+        if (mongoClient != null) {
+            mongoClient.close();
+        }
+        mongoClient = null;
+        database    = null;
+        coll        = null;
+    }
+
+    /**
+     * Libera o repositório fechado por {@link #close()} para que a próxima operação crie um novo
+     * cliente MongoDB. Usado quando o contêiner Jersey é recarregado: o contêiner antigo fecha o
+     * repositório em {@code onShutdown} e o novo o reabre em {@code onStartup}.
+     */
+    public synchronized void reopen() {
+        closed = false;
     }
 
     /**
@@ -48,14 +172,40 @@ public enum TemperatureRepository {
      * @return {@code true} se a inserção foi bem-sucedida, {@code false} caso contrário.
      */
     public boolean insert(Temperature temperature) {
-        Document temperatureDocument = new Document("uuid", temperature.getUuid())
-            .append("timestamp", temperature.getTimestamp())
-            .append("dateTime", temperature.getDateTime() != null ? temperature.getDateTime().toString() : null)
-            .append("inputValue", temperature.getInputValue())
-            .append("inputType", temperature.getInputType())
-            .append("outputType", temperature.getOutputType())
-            .append("outputValue", temperature.getOutputValue());
-        return coll.insertOne(temperatureDocument).getInsertedId() != null;
+        return collection().insertOne(temperatureToDoc(temperature)).getInsertedId() != null;
+    }
+
+    /**
+     * Insere vários registros de temperatura em uma única escrita em lote não ordenada,
+     * permitindo que o servidor aplique as inserções em paralelo.
+     * O UUID de cada registro é usado também como {@code _id}; registros cujo {@code _id}
+     * já existe (erro de chave duplicada) são considerados já gravados, o que torna a
+     * repetição de um lote idempotente.
+     * @param temperatures Os objetos {@link Temperature} a serem inseridos.
+     * @return O número de documentos gravados, incluindo os que já existiam.
+     * @throws MongoBulkWriteException Se alguma inserção falhar por outro motivo.
+     */
+    public int insertAll(List<Temperature> temperatures) {
+        if (temperatures.isEmpty()) {
+            return 0;
+        }
+        List<WriteModel<Document>> writes = new ArrayList<>(temperatures.size());
+        for (Temperature temperature : temperatures) {
+            writes.add(new InsertOneModel<>(temperatureToDoc(temperature).append("_id", temperature.getUuid())));
+        }
+        try {
+            return collection().bulkWrite(writes, new BulkWriteOptions().ordered(false)).getInsertedCount();
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+            if (e.getWriteConcernError() != null) {
+                throw e;
+            }
+            return e.getWriteResult().getInsertedCount() + e.getWriteErrors().size();
+        }
     }
 
     /**
@@ -74,7 +224,7 @@ public enum TemperatureRepository {
             Updates.set("outputType", temperature.getOutputType()),
             Updates.set("outputValue", temperature.getOutputValue())
         );
-        return coll.updateOne(queryFilter, updateOperations).getModifiedCount() > 0L;
+        return collection().updateOne(queryFilter, updateOperations).getModifiedCount() > 0L;
     }
 
     /**
@@ -93,7 +243,7 @@ public enum TemperatureRepository {
      */
     public boolean delete(String uuid) {
         Bson filter = Filters.eq("uuid", uuid);
-        return coll.deleteOne(filter).getDeletedCount() > 0L;
+        return collection().deleteOne(filter).getDeletedCount() > 0L;
     }
 
     /**
@@ -116,7 +266,7 @@ public enum TemperatureRepository {
         
         if (deletionFilter != null) {
             // Usamos deleteMany pois pode haver múltiplos documentos que atendam ao critério.
-            return coll.deleteMany(deletionFilter).getDeletedCount();
+            return collection().deleteMany(deletionFilter).getDeletedCount();
         }
         return 0L;
     }
@@ -126,9 +276,9 @@ public enum TemperatureRepository {
      * @return O número total de documentos que foram excluídos.
      */
     public int delete() {
-        long totalDocuments = coll.countDocuments();
+        long totalDocuments = collection().countDocuments();
         if (totalDocuments > 0L) {
-            coll.drop(); // Remove a coleção inteira, efetivamente excluindo todos os documentos.
+            collection().drop(); // Remove a coleção inteira, efetivamente excluindo todos os documentos.
         }
         return (int) totalDocuments;
     }
@@ -139,7 +289,7 @@ public enum TemperatureRepository {
      */
     public List<Temperature> findAll() {
         List<Temperature> temperatures = new ArrayList<>();
-        FindIterable<Document> documents = coll.find();
+        FindIterable<Document> documents = collection().find();
         for (Document doc : documents) {
             temperatures.add(docToTemperature(doc));
         }
@@ -153,7 +303,7 @@ public enum TemperatureRepository {
      */
     public Optional<Temperature> findByUuid(String uuid) {
         Bson queryFilter = Filters.eq("uuid", uuid);
-        Document document = coll.find(queryFilter).first();
+        Document document = collection().find(queryFilter).first();
         if (document != null) {
             return Optional.of(docToTemperature(document));
         }
@@ -167,7 +317,7 @@ public enum TemperatureRepository {
      */
     public Optional<Temperature> findByDateTime(LocalDateTime dateTime) {
         Bson queryFilter = Filters.eq("dateTime", dateTime.toString());
-        Document document = coll.find(queryFilter).first();
+        Document document = collection().find(queryFilter).first();
         if (document != null) {
             return Optional.of(docToTemperature(document));
         }
@@ -182,7 +332,7 @@ public enum TemperatureRepository {
     public List<Temperature> findByInputType(String inputType) {
         Bson queryFilter = Filters.eq("inputType", inputType);
         List<Temperature> temperatures = new ArrayList<>();
-        for (Document document : coll.find(queryFilter)) {
+        for (Document document : collection().find(queryFilter)) {
             temperatures.add(docToTemperature(document));
         }
         return temperatures;
@@ -196,7 +346,7 @@ public enum TemperatureRepository {
     public List<Temperature> findByOutputType(String outputType) {
         Bson queryFilter = Filters.eq("outputType", outputType);
         List<Temperature> temperatures = new ArrayList<>();
-        for (Document document : coll.find(queryFilter)) {
+        for (Document document : collection().find(queryFilter)) {
             temperatures.add(docToTemperature(document));
         }
         return temperatures;
@@ -210,7 +360,7 @@ public enum TemperatureRepository {
     public List<Temperature> findByInputValue(BigDecimal value) {
         Bson queryFilter = Filters.eq("inputValue", value);
         List<Temperature> temperatures = new ArrayList<>();
-        for (Document document : coll.find(queryFilter)) {
+        for (Document document : collection().find(queryFilter)) {
             temperatures.add(docToTemperature(document));
         }
         return temperatures;
@@ -224,7 +374,7 @@ public enum TemperatureRepository {
     public List<Temperature> findByOutputValue(BigDecimal value) {
         Bson queryFilter = Filters.eq("outputValue", value);
         List<Temperature> temperatures = new ArrayList<>();
-        for (Document document : coll.find(queryFilter)) {
+        for (Document document : collection().find(queryFilter)) {
             temperatures.add(docToTemperature(document));
         }
         return temperatures;
@@ -242,7 +392,7 @@ public enum TemperatureRepository {
             Filters.eq("outputType", outputType)
         );
         List<Temperature> temperatures = new ArrayList<>();
-        for (Document document : coll.find(queryFilter)) {
+        for (Document document : collection().find(queryFilter)) {
             temperatures.add(docToTemperature(document));
         }
         return temperatures;
@@ -260,19 +410,34 @@ public enum TemperatureRepository {
             Filters.eq("inputValue", inputValue)
         );
         List<Temperature> temperatures = new ArrayList<>();
-        for (Document document : coll.find(queryFilter)) {
+        for (Document document : collection().find(queryFilter)) {
             temperatures.add(docToTemperature(document));
         }
         return temperatures;
     }
 
+    /**
+     * Converte um objeto {@link Temperature} para um {@link Document} do MongoDB.
+     * @param temperature O objeto {@link Temperature} a ser convertido.
+     * @return Um Documento MongoDB com os campos do registro.
+     */
+    Document temperatureToDoc(Temperature temperature) {
+        return new Document("uuid", temperature.getUuid())
+            .append("timestamp", temperature.getTimestamp())
+            .append("dateTime", temperature.getDateTime() != null ? temperature.getDateTime().toString() : null)
+            .append("inputValue", temperature.getInputValue())
+            .append("inputType", temperature.getInputType())
+            .append("outputType", temperature.getOutputType())
+            .append("outputValue", temperature.getOutputValue());
+    }
+
     /**
      * Converte um {@link Document} do MongoDB para um objeto {@link Temperature}.
      * Lida com a conversão de tipos e tratamento de valores nulos.
      * @param document O Documento MongoDB a ser convertido.
      * @return Um objeto {@link Temperature} preenchido com os dados do documento.
      */
-    private Temperature docToTemperature(Document document) {
+    Temperature docToTemperature(Document document) {
         String uuid = document.getString("uuid");
         long timestamp = document.get("timestamp", Long.class) != null ? document.getLong("timestamp") : 0L;
         LocalDateTime dateTime = null;
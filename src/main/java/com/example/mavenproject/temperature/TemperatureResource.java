@@ -14,7 +14,10 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+import com.example.mavenproject.restful.limit.ConcurrencyLimited;
+
 @Path("/temperatures")
+@ConcurrencyLimited
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 public class TemperatureResource {
@@ -0,0 +1,40 @@
+package com.example.mavenproject.temperature;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.bson.Document;
+
+/**
+ * Executa os caminhos quentes da aplicação (conversão e mapeamento Documento/Temperature)
+ * antes que o nó seja marcado como pronto, para que a compilação JIT ocorra
+ * fora das requisições dos usuários. Não acessa o banco de dados e termina antes do
+ * previsto se a thread for interrompida.
+ */
+public class TemperatureWarmUp {
+
+    private static final String[] TYPES = { "C", "F", "K" };
+
+    /**
+     * Executa o aquecimento pelo número de iterações informado.
+     * @param iterations O número de passadas por todas as combinações de escalas.
+     * @return O número de conversões realizadas.
+     */
+    public static long run(int iterations) {
+        long conversions = 0L;
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+            BigDecimal value = BigDecimal.valueOf(i % 400 - 100, 1);
+            for (String from : TYPES) {
+                for (String to : TYPES) {
+                    BigDecimal converted = TemperatureConverter.convert(value, from, to);
+                    Temperature temperature = new Temperature(now, value, from, to, converted, "warmup-" + i, i);
+                    Document document = TemperatureRepository.INSTANCE.temperatureToDoc(temperature);
+                    TemperatureRepository.INSTANCE.docToTemperature(document);
+                    conversions++;
+                }
+            }
+        }
+        return conversions;
+    }
+}
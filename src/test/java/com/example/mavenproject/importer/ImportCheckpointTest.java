@@ -0,0 +1,75 @@
+package com.example.mavenproject.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImportCheckpointTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void newCheckpointStartsAtChunkStarts() throws IOException {
+        Path path = dir.resolve("data.csv.checkpoint");
+        ImportCheckpoint.create(path, 300L, new long[] { 0L, 100L, 200L }, new long[] { 100L, 200L, 300L });
+
+        ImportCheckpoint loaded = ImportCheckpoint.load(path, 300L);
+
+        assertEquals(3, loaded.chunkCount());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i * 100L, loaded.start(i));
+            assertEquals((i + 1) * 100L, loaded.end(i));
+            assertEquals(i * 100L, loaded.committed(i));
+        }
+    }
+
+    @Test
+    void resumeReturnsCommittedOffsets() throws IOException {
+        Path path = dir.resolve("data.csv.checkpoint");
+        ImportCheckpoint checkpoint = ImportCheckpoint.create(path, 300L,
+            new long[] { 0L, 100L, 200L }, new long[] { 100L, 200L, 300L });
+        checkpoint.commit(0, 42L);
+        checkpoint.commit(2, 300L);
+
+        ImportCheckpoint resumed = ImportCheckpoint.load(path, 300L);
+
+        assertEquals(42L, resumed.committed(0));
+        assertEquals(100L, resumed.committed(1));
+        assertEquals(300L, resumed.committed(2));
+        assertFalse(Files.exists(path.resolveSibling(path.getFileName() + ".tmp")));
+    }
+
+    @Test
+    void checkpointOfAnotherFileSizeIsRejected() throws IOException {
+        Path path = dir.resolve("data.csv.checkpoint");
+        ImportCheckpoint.create(path, 300L, new long[] { 0L }, new long[] { 300L });
+
+        assertThrows(IllegalStateException.class, () -> ImportCheckpoint.load(path, 301L));
+    }
+
+    @Test
+    void malformedCheckpointIsRejected() throws IOException {
+        Path path = dir.resolve("data.csv.checkpoint");
+        Files.write(path, "size=10\n0 10\n".getBytes());
+
+        assertThrows(IllegalStateException.class, () -> ImportCheckpoint.load(path, 10L));
+    }
+
+    @Test
+    void deleteRemovesCheckpoint() throws IOException {
+        Path path = dir.resolve("data.csv.checkpoint");
+        ImportCheckpoint checkpoint = ImportCheckpoint.create(path, 10L, new long[] { 0L }, new long[] { 10L });
+
+        checkpoint.delete();
+
+        assertFalse(Files.exists(path));
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.mavenproject.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RowParserTest {
+
+    private static ByteBuffer bytes(String line) {
+        return ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Interpreta a linha e retorna a {@link RowParser.Row}, ou {@code null} se ela for inválida. */
+    private static RowParser.Row parse(ImportFormat format, String line) {
+        ByteBuffer buffer = bytes(line);
+        RowParser.Row row = new RowParser.Row();
+        return new RowParser(format).parse(buffer, 0, buffer.limit(), row) ? row : null;
+    }
+
+    @Test
+    void csvHeaderIsDetected() {
+        ByteBuffer header = bytes("inputValue,inputType,outputType,timestamp\r");
+        assertTrue(RowParser.isHeader(header, 0, header.limit()));
+
+        ByteBuffer quotedHeader = bytes("\"inputValue\",\"inputType\",\"outputType\",\"timestamp\"");
+        assertTrue(RowParser.isHeader(quotedHeader, 0, quotedHeader.limit()));
+
+        ByteBuffer data = bytes("-12.5,C,F,1700000000000");
+        assertFalse(RowParser.isHeader(data, 0, data.limit()));
+    }
+
+    @Test
+    void csvRowWithCrlf() {
+        RowParser.Row row = parse(ImportFormat.CSV, "-12.5,C,F,1700000000000\r");
+
+        assertEquals(new BigDecimal("-12.5"), row.inputValue());
+        assertSame(RowParser.CELSIUS, row.inputType);
+        assertSame(RowParser.FAHRENHEIT, row.outputType);
+        assertEquals(1700000000000L, row.timestamp);
+    }
+
+    @Test
+    void csvQuotedFields() {
+        RowParser.Row row = parse(ImportFormat.CSV, "\"32\", \"fahrenheit\" ,\"K\",\"5\"");
+
+        assertEquals(new BigDecimal("32"), row.inputValue());
+        assertSame(RowParser.FAHRENHEIT, row.inputType);
+        assertSame(RowParser.KELVIN, row.outputType);
+        assertEquals(5L, row.timestamp);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "12.5,C,F",                 // sem timestamp
+        "12.5,C,F,",                // timestamp vazio
+        "abc,C,F,1",                // valor inválido
+        "12.5,X,F,1",               // unidade desconhecida
+        "12.5,Cel,F,1",             // nome de unidade incompleto
+        "1.2.3,C,F,1",              // dois pontos decimais
+        "\"12.5,C,F,1"              // aspas sem fechamento
+    })
+    void csvInvalidRowsAreRejected(String line) {
+        assertNull(parse(ImportFormat.CSV, line));
+    }
+
+    @Test
+    void numbersLimitedToEighteenDigits() {
+        RowParser.Row row = parse(ImportFormat.CSV, "123456789012345678,C,C,1");
+        assertEquals(new BigDecimal("123456789012345678"), row.inputValue());
+
+        assertNull(parse(ImportFormat.CSV, "1234567890123456789,C,C,1"));
+        assertNull(parse(ImportFormat.CSV, "1.234567890123456789,C,C,1"));
+        assertNull(parse(ImportFormat.CSV, "0,C,C,1234567890123456789"));
+    }
+
+    @Test
+    void ndjsonRow() {
+        RowParser.Row row = parse(ImportFormat.NDJSON,
+            "{\"inputValue\": 0, \"inputType\":\"K\",\"outputType\":\"celsius\",\"timestamp\":5}");
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(row.inputValue()));
+        assertSame(RowParser.KELVIN, row.inputType);
+        assertSame(RowParser.CELSIUS, row.outputType);
+        assertEquals(5L, row.timestamp);
+    }
+
+    @Test
+    void ndjsonQuotedValues() {
+        RowParser.Row row = parse(ImportFormat.NDJSON,
+            "{\"timestamp\":\"7\",\"inputValue\":\"1.25\",\"inputType\":\"F\",\"outputType\":\"C\"}");
+
+        assertEquals(new BigDecimal("1.25"), row.inputValue());
+        assertEquals(7L, row.timestamp);
+    }
+
+    @Test
+    void ndjsonExponentValues() {
+        RowParser.Row row = parse(ImportFormat.NDJSON,
+            "{\"inputValue\":1.5e2,\"inputType\":\"C\",\"outputType\":\"F\",\"timestamp\":1}");
+        assertEquals(0, new BigDecimal("150").compareTo(row.inputValue()));
+
+        row = parse(ImportFormat.NDJSON,
+            "{\"inputValue\":-2E-1,\"inputType\":\"C\",\"outputType\":\"F\",\"timestamp\":1}");
+        assertEquals(0, new BigDecimal("-0.2").compareTo(row.inputValue()));
+
+        assertNull(parse(ImportFormat.NDJSON,
+            "{\"inputValue\":1e,\"inputType\":\"C\",\"outputType\":\"F\",\"timestamp\":1}"));
+        assertNull(parse(ImportFormat.NDJSON,
+            "{\"inputValue\":1e1000,\"inputType\":\"C\",\"outputType\":\"F\",\"timestamp\":1}"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "{\"inputValue\":null,\"inputType\":\"C\",\"outputType\":\"F\",\"timestamp\":1}",
+        "{\"inputValue\":1,\"inputType\":null,\"outputType\":\"F\",\"timestamp\":1}",
+        "{\"inputValue\":1,\"inputType\":\"C\",\"outputType\":\"F\",\"timestamp\":null}",
+        "{\"inputValue\":1,\"inputType\":\"C\",\"outputType\":\"F\"}",
+        "{\"x\":1}"
+    })
+    void ndjsonNullOrMissingFieldsAreRejected(String line) {
+        assertNull(parse(ImportFormat.NDJSON, line));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.mavenproject.importer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TemperatureImporterTest {
+
+    @TempDir
+    Path dir;
+
+    private long[] plan(String content, int chunks) throws IOException {
+        Path file = dir.resolve("data.csv");
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return TemperatureImporter.planChunks(channel, channel.size(), chunks);
+        }
+    }
+
+    @Test
+    void chunksStartAtLineBoundaries() throws IOException {
+        String content = "1,C,F,1\n22,C,F,2\n333,C,F,3\n4444,C,F,4\n";
+        long[] starts = plan(content, 3);
+
+        assertEquals(0L, starts[0]);
+        for (int i = 1; i < starts.length; i++) {
+            assertTrue(starts[i] >= starts[i - 1]);
+            assertEquals('\n', content.charAt((int) starts[i] - 1));
+        }
+    }
+
+    @Test
+    void fileWithoutNewlineIsASingleChunk() throws IOException {
+        assertArrayEquals(new long[] { 0L, 10L, 10L }, plan("0123456789", 3));
+    }
+
+    @Test
+    void boundaryInsideUnterminatedLastLineYieldsEmptyChunk() throws IOException {
+        // A fronteira nominal (posição 6) cai na última linha, que não termina em quebra.
+        assertArrayEquals(new long[] { 0L, 13L }, plan("1\n22222222222", 2));
+    }
+
+    @Test
+    void moreChunksThanBytes() throws IOException {
+        assertArrayEquals(new long[] { 0L, 0L, 2L }, plan("1\n", 3));
+    }
+
+    @Test
+    void nextLineStartAtExactLineStart() throws IOException {
+        Path file = dir.resolve("data.csv");
+        Files.write(file, "abc\ndef\n".getBytes(StandardCharsets.US_ASCII));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer scan = ByteBuffer.allocate(2);
+            assertEquals(0L, TemperatureImporter.nextLineStart(channel, 0L, 8L, scan));
+            assertEquals(4L, TemperatureImporter.nextLineStart(channel, 4L, 8L, scan));
+            assertEquals(8L, TemperatureImporter.nextLineStart(channel, 5L, 8L, scan));
+        }
+    }
+
+    @Test
+    void chunkCountBoundedBySizeAndThreads() {
+        assertEquals(1, TemperatureImporter.chunkCount(0L, 8));
+        assertEquals(1, TemperatureImporter.chunkCount(1000L, 8));
+        assertEquals(10, TemperatureImporter.chunkCount(10L << 20, 8));
+        assertEquals(32, TemperatureImporter.chunkCount(1L << 30, 8));
+        assertEquals(40, TemperatureImporter.chunkCount(10L << 30, 2));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.mavenproject.restful.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void rejectsAboveLimitAndCountsRejections() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 100L);
+
+        assertEquals(1, limit.tryAcquire());
+        assertEquals(2, limit.tryAcquire());
+        assertEquals(-1, limit.tryAcquire());
+        assertEquals(-1, limit.tryAcquire());
+
+        assertEquals(2, limit.getInFlight());
+        assertEquals(2L, limit.getRejected());
+    }
+
+    @Test
+    void fastRequestsAtFullUtilizationGrowTheLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 10, 100L);
+
+        // Cada sucesso soma 1/limite: cerca de uma "rodada" de requisições para crescer 1.
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limit.tryAcquire() > 0);
+            limit.release(FAST, 4, false);
+        }
+
+        assertEquals(5, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void fastRequestsAtLowUtilizationKeepTheLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 20, 100L);
+
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(FAST, 1, false);
+        }
+
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    void limitNeverExceedsMaximum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(3, 1, 3, 100L);
+
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(FAST, 3, false);
+        }
+
+        assertEquals(3, limit.getLimit());
+    }
+
+    @Test
+    void slowOrFailedRequestsShrinkTheLimitDownToMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 20, 100L);
+
+        limit.tryAcquire();
+        limit.release(SLOW, 1, false);
+        assertEquals(9, limit.getLimit());
+
+        limit.tryAcquire();
+        limit.release(FAST, 1, true);
+        assertEquals(8, limit.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(SLOW, 1, false);
+        }
+        assertEquals(2, limit.getLimit());
+    }
+
+    @Test
+    void invalidBoundsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(1, 0, 10, 100L));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(1, 2, 10, 100L));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(11, 1, 10, 100L));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.mavenproject.restful.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.lang.reflect.Proxy;
+import java.net.URI;
+
+import jakarta.ws.rs.core.Response;
+
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ConcurrencyLimitListenerTest {
+
+    private static final int INITIAL_LIMIT = 10;
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(INITIAL_LIMIT, 1, 20, 10_000L);
+
+    private static ContainerRequest request() {
+        return new ContainerRequest(URI.create("http://localhost/webapi/"),
+            URI.create("http://localhost/webapi/temperatures"), "GET", null, new MapPropertiesDelegate(), null);
+    }
+
+    /**
+     * Cria um {@link RequestEvent} com os dados usados pelo ouvinte. Jersey considera
+     * {@code isSuccess()} falso para qualquer status >= 400, como em {@code ServerRuntime}.
+     */
+    private static RequestEvent event(RequestEvent.Type type, ContainerRequest request, ContainerResponse response) {
+        return (RequestEvent) Proxy.newProxyInstance(RequestEvent.class.getClassLoader(),
+            new Class<?>[] { RequestEvent.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getType":
+                        return type;
+                    case "getContainerRequest":
+                        return request;
+                    case "getContainerResponse":
+                        return response;
+                    case "isSuccess":
+                        return response != null && response.getStatus() < 400;
+                    default:
+                        return null;
+                }
+            });
+    }
+
+    /**
+     * Simula uma requisição admitida pelo filtro que termina com a resposta informada
+     * ({@code null} para uma exceção não mapeada).
+     */
+    private void complete(Response response) {
+        ContainerRequest request = request();
+        request.setProperty(ConcurrencyLimitFilter.PERMIT_PROPERTY,
+            new ConcurrencyLimitFilter.Permit(limit, System.nanoTime(), limit.tryAcquire()));
+        ContainerResponse containerResponse = response != null ? new ContainerResponse(request, response) : null;
+
+        RequestEventListener listener = new ConcurrencyLimitListener().onRequest(event(RequestEvent.Type.START, request, null));
+        listener.onEvent(event(RequestEvent.Type.RESOURCE_METHOD_FINISHED, request, containerResponse));
+        listener.onEvent(event(RequestEvent.Type.FINISHED, request, containerResponse));
+
+        assertNull(request.getProperty(ConcurrencyLimitFilter.PERMIT_PROPERTY));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 200, 201, 204, 400, 404 })
+    void successAndClientErrorsDoNotShrinkTheLimit(int status) {
+        complete(Response.status(status).build());
+
+        assertEquals(INITIAL_LIMIT, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 500, 503 })
+    void serverErrorsShrinkTheLimit(int status) {
+        complete(Response.status(status).build());
+
+        assertEquals(INITIAL_LIMIT - 1, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void unmappedExceptionShrinksTheLimit() {
+        complete(null);
+
+        assertEquals(INITIAL_LIMIT - 1, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void requestsWithoutPermitAreIgnored() {
+        ContainerRequest request = request();
+        RequestEventListener listener = new ConcurrencyLimitListener().onRequest(event(RequestEvent.Type.START, request, null));
+        listener.onEvent(event(RequestEvent.Type.FINISHED, request, null));
+
+        assertEquals(INITIAL_LIMIT, limit.getLimit());
+    }
+}